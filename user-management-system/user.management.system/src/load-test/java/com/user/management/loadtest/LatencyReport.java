@@ -0,0 +1,134 @@
+package com.user.management.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per operation, written as plain text
+ * with a fixed layout so reports from two builds can be diffed line by line.
+ *
+ * HTTP operations are summed into an {@code http_total} row; background
+ * operations are reported on their own lines and kept out of that total.
+ * Latencies cover the recording window only; successes outside it are counted
+ * as {@code outside}, and errors are counted for the whole run.
+ */
+public class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final List<String> httpOperations;
+    private final List<String> backgroundOperations;
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+    private final Map<String, LongAdder> outside = new LinkedHashMap<>();
+
+    public LatencyReport(List<String> httpOperations, List<String> backgroundOperations) {
+        this.httpOperations = List.copyOf(httpOperations);
+        this.backgroundOperations = List.copyOf(backgroundOperations);
+        List<String> operations = new ArrayList<>(httpOperations);
+        operations.addAll(backgroundOperations);
+        for (String operation : operations) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+            outside.put(operation, new LongAdder());
+        }
+    }
+
+    public void record(String operation, long elapsedNanos) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+    }
+
+    public void error(String operation) {
+        errors.get(operation).increment();
+    }
+
+    /**
+     * Counts a success that started before or finished after the recording window.
+     */
+    public void recordOutside(String operation) {
+        outside.get(operation).increment();
+    }
+
+    public long count(String operation) {
+        return histograms.get(operation).getTotalCount();
+    }
+
+    public long errors(String operation) {
+        return errors.get(operation).sum();
+    }
+
+    public long outside(String operation) {
+        return outside.get(operation).sum();
+    }
+
+    public long httpCount() {
+        return httpOperations.stream().mapToLong(this::count).sum();
+    }
+
+    public long httpErrors() {
+        return httpOperations.stream().mapToLong(this::errors).sum();
+    }
+
+    public long httpOutside() {
+        return httpOperations.stream().mapToLong(this::outside).sum();
+    }
+
+    /**
+     * Writes {@code report.txt} with one summary line per operation, plus one
+     * {@code <operation>.hgrm} percentile distribution (in milliseconds) per operation.
+     *
+     * @param directory the output directory.
+     * @param settings the run settings, printed as the report header.
+     * @param elapsedSeconds the length of the recording window, used for throughput.
+     */
+    public void write(Path directory, Map<String, Object> settings, double elapsedSeconds) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("report.txt")), false, "UTF-8")) {
+            settings.forEach((key, value) -> out.println("# " + key + "=" + value));
+            out.printf(Locale.ROOT, "%-16s %10s %8s %8s %12s %10s %10s %10s %10s %10s%n",
+                    "operation", "count", "errors", "outside", "ops/s", "p50_us", "p90_us", "p99_us", "p99.9_us", "max_us");
+            Histogram httpTotal = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+            for (String operation : httpOperations) {
+                httpTotal.add(histograms.get(operation));
+                printLine(out, operation, histograms.get(operation), errors(operation), outside(operation), elapsedSeconds);
+            }
+            printLine(out, "http_total", httpTotal, httpErrors(), httpOutside(), elapsedSeconds);
+            for (String operation : backgroundOperations) {
+                printLine(out, operation, histograms.get(operation), errors(operation), outside(operation), elapsedSeconds);
+            }
+        }
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey() + ".hgrm")), false, "UTF-8")) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static void printLine(PrintStream out, String operation, Histogram histogram, long errorCount,
+                                  long outsideCount, double elapsedSeconds) {
+        out.printf(Locale.ROOT, "%-16s %10d %8d %8d %12.1f %10d %10d %10d %10d %10d%n",
+                operation,
+                histogram.getTotalCount(),
+                errorCount,
+                outsideCount,
+                histogram.getTotalCount() / elapsedSeconds,
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMaxValue());
+    }
+}
@@ -0,0 +1,132 @@
+package com.user.management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.management.dto.UserDTO;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares payload size and serialization time of a 100k-user list across the
+ * negotiated formats and both {@code createdAt} encodings, with and without gzip.
+ * Writes the table to {@code payload-formats.txt} in {@code loadtest.reportDir}.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+public class PayloadFormatLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayloadFormatLoadTest.class);
+
+    private static final int USER_COUNT = 100_000;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDateTime.of(2024, 8, 10, 0, 25, 45);
+
+    private final Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "target/load-test"));
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    /**
+     * Users created about a minute apart, so timestamps differ as they would in real data.
+     */
+    private static List<UserDTO> users(boolean epochMillis) {
+        List<UserDTO> users = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            long id = 1_000_000_000_000_000L + i * 4_194_304L;
+            LocalDateTime createdAt = FIRST_CREATED_AT.plusSeconds(i * 61L);
+            String value = epochMillis
+                    ? String.valueOf(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                    : createdAt.format(FORMATTER);
+            users.add(new UserDTO(id, "User " + i, "user." + i + "@example.com", value));
+        }
+        return users;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Serializes once to warm up, then keeps the best of five runs.
+     *
+     * @return bytes, gzipped bytes, serialization ms and gzip ms.
+     */
+    private static long[] measure(ObjectMapper mapper, List<UserDTO> users) throws IOException {
+        byte[] content = mapper.writeValueAsBytes(users);
+        long bestNanos = Long.MAX_VALUE;
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            content = mapper.writeValueAsBytes(users);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        long start = System.nanoTime();
+        byte[] compressed = gzip(content);
+        long gzipNanos = System.nanoTime() - start;
+        return new long[]{content.length, compressed.length, bestNanos / 1_000_000, gzipNanos / 1_000_000};
+    }
+
+    @Test
+    public void compareFormatsFor100kUsers() throws IOException {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-8s %-12s %12s %12s %14s %10s%n",
+                "format", "createdAt", "bytes", "gzip_bytes", "serialize_ms", "gzip_ms"));
+        long[][] rawBytes = new long[2][];
+        for (int mode = 0; mode < 2; mode++) {
+            boolean epochMillis = mode == 1;
+            List<UserDTO> users = users(epochMillis);
+            String createdAt = epochMillis ? "epoch-millis" : "formatted";
+            long[] json = measure(objectMapper, users);
+            long[] cbor = measure(cborConverter.getObjectMapper(), users);
+            long[] smile = measure(smileConverter.getObjectMapper(), users);
+            appendRow(table, "json", createdAt, json);
+            appendRow(table, "cbor", createdAt, cbor);
+            appendRow(table, "smile", createdAt, smile);
+            rawBytes[mode] = new long[]{json[0], cbor[0], smile[0]};
+
+            assertTrue(cbor[0] < json[0], "CBOR should be smaller than JSON");
+            for (long[] result : List.of(json, cbor, smile)) {
+                assertTrue(result[1] < result[0], "gzip should shrink every format");
+            }
+        }
+        for (int format = 0; format < 3; format++) {
+            assertTrue(rawBytes[1][format] < rawBytes[0][format], "epoch millis should be smaller than a formatted date");
+        }
+
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("payload-formats.txt"), table);
+        logger.info("Payload formats for {} users:\n{}", USER_COUNT, table);
+    }
+
+    private static void appendRow(StringBuilder table, String format, String createdAt, long[] result) {
+        table.append(String.format(Locale.ROOT, "%-8s %-12s %12d %12d %14d %10d%n",
+                format, createdAt, result[0], result[1], result[2], result[3]));
+    }
+}
@@ -0,0 +1,347 @@
+package com.user.management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.management.entity.User;
+import com.user.management.repository.UserRepository;
+import com.user.management.scheduler.UserProcessingService;
+import com.user.management.sharding.ShardRouter;
+import com.user.management.sharding.SnowflakeIdGenerator;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Soak/load test for the REST API against the real stack and a seeded H2 database.
+ *
+ * Many virtual-thread clients drive a weighted mix of requests while
+ * {@link UserProcessingService#processUserData()} runs in a loop alongside.
+ * Run with {@code mvn -P load-test test}; settings are read from system properties:
+ * <ul>
+ *     <li>{@code loadtest.clients} - concurrent clients (default 200)</li>
+ *     <li>{@code loadtest.warmupSeconds} - unrecorded warmup (default 10)</li>
+ *     <li>{@code loadtest.durationSeconds} - recorded run (default 60)</li>
+ *     <li>{@code loadtest.seedUsers} - users inserted before the run (default 10000)</li>
+ *     <li>{@code loadtest.deletableUsers} - extra users inserted for deletes to consume (default 1000)</li>
+ *     <li>{@code loadtest.mix} - request weights (default get=60,list=5,create=15,update=15,delete=5)</li>
+ *     <li>{@code loadtest.pageSize} - page size for list requests (default 100)</li>
+ *     <li>{@code loadtest.reportDir} - output directory (default target/load-test)</li>
+ *     <li>{@code loadtest.maxErrorRate} - allowed share of failed HTTP requests (default 0)</li>
+ * </ul>
+ * Only successes that start after the warmup and finish before the deadline are recorded,
+ * so throughput is divided by exactly the recording window. Failures are counted
+ * whenever they happen. A delete with no user left to delete sends nothing and is not counted.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+public class UserApiLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserApiLoadTest.class);
+
+    private static final String PROCESS_USER_DATA = "processUserData";
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final Set<String> OPERATIONS = Set.of("get", "list", "create", "update", "delete");
+    private static final int MAX_LOGGED_FAILURES = 10;
+
+    private final int clients = Integer.getInteger("loadtest.clients", 200);
+    private final long warmupSeconds = Long.getLong("loadtest.warmupSeconds", 10);
+    private final long durationSeconds = Long.getLong("loadtest.durationSeconds", 60);
+    private final int seedUsers = Integer.getInteger("loadtest.seedUsers", 10_000);
+    private final int deletableUsers = Integer.getInteger("loadtest.deletableUsers", 1000);
+    private final String mix = System.getProperty("loadtest.mix", "get=60,list=5,create=15,update=15,delete=5");
+    private final int pageSize = Integer.getInteger("loadtest.pageSize", 100);
+    private final Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "target/load-test"));
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private UserProcessingService userProcessingService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** Seeded ids; read, listed and updated but never deleted, so lookups stay valid. */
+    private long[] seededIds;
+
+    /** Deletable ids, seeded up front and added by creates; the only ones deletes consume. */
+    private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger loggedFailures = new AtomicInteger();
+    private final LongAdder skippedDeletes = new LongAdder();
+
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Test
+    public void soak() throws Exception {
+        double elapsedSeconds;
+        Map<String, Integer> weights = parseMix(mix);
+        LatencyReport report = new LatencyReport(new ArrayList<>(weights.keySet()), List.of(PROCESS_USER_DATA));
+
+        seed();
+        baseUrl = "http://localhost:" + port + "/api/users";
+        try (ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            httpClient = HttpClient.newBuilder()
+                    .executor(httpExecutor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            logger.info("Warming up for {}s, then recording for {}s with {} clients", warmupSeconds, durationSeconds, clients);
+            elapsedSeconds = drive(weights, report);
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("clients", clients);
+        settings.put("warmupSeconds", warmupSeconds);
+        settings.put("durationSeconds", durationSeconds);
+        settings.put("seedUsers", seedUsers);
+        settings.put("deletableUsers", deletableUsers);
+        settings.put("mix", mix);
+        settings.put("pageSize", pageSize);
+        settings.put("shards", shardRouter.getShardCount());
+        settings.put("maxErrorRate", maxErrorRate);
+        report.write(reportDir, settings, elapsedSeconds);
+        logger.info("Load test report:\n{}", Files.readString(reportDir.resolve("report.txt")));
+        if (skippedDeletes.sum() > 0) {
+            logger.info("Skipped {} deletes with no user left to delete; raise loadtest.deletableUsers", skippedDeletes.sum());
+        }
+
+        long httpAttempts = report.httpCount() + report.httpOutside() + report.httpErrors();
+        assertTrue(report.httpCount() > 0, "no HTTP requests succeeded");
+        assertTrue(report.httpErrors() <= maxErrorRate * httpAttempts,
+                report.httpErrors() + " of " + httpAttempts + " HTTP requests failed, above loadtest.maxErrorRate=" + maxErrorRate);
+        assertEquals(0, report.errors(PROCESS_USER_DATA), "processUserData failed during the run");
+        assertTrue(report.count(PROCESS_USER_DATA) > 0, "no processUserData pass fit in the recording window ("
+                + report.outside(PROCESS_USER_DATA) + " passes overlapped its edges); raise loadtest.durationSeconds");
+    }
+
+    /**
+     * Inserts {@code seedUsers} plus {@code deletableUsers} users directly through the repository,
+     * batched per shard.
+     */
+    private void seed() {
+        seededIds = new long[seedUsers];
+        Map<Integer, List<User>> batches = new LinkedHashMap<>();
+        for (int i = 0; i < seedUsers + deletableUsers; i++) {
+            long id = idGenerator.nextId();
+            if (i < seedUsers) {
+                seededIds[i] = id;
+            } else {
+                createdIds.add(id);
+            }
+            int shard = shardRouter.shardFor(id);
+            List<User> batch = batches.computeIfAbsent(shard, key -> new ArrayList<>(SEED_BATCH_SIZE));
+            batch.add(new User(id, "Seed User " + i, "seed." + i + "@example.com", null, null));
+            if (batch.size() == SEED_BATCH_SIZE) {
+                shardRouter.onShard(shard, () -> userRepository.saveAll(batch));
+                batches.remove(shard);
+            }
+        }
+        batches.forEach((shard, batch) -> shardRouter.onShard(shard, () -> userRepository.saveAll(batch)));
+        logger.info("Seeded {} users and {} deletable users", seedUsers, deletableUsers);
+    }
+
+    /**
+     * Runs all clients and the processing loop through the warmup and the recording window.
+     * Clients and the processing loop run without pause across both phases, so the warmup
+     * never leaks a slow pass into the recording start.
+     *
+     * @return the length of the recording window in seconds.
+     */
+    private double drive(Map<String, Integer> weights, LatencyReport report) throws InterruptedException {
+        long begin = System.nanoTime();
+        long recordStart = begin + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = recordStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+        Thread processing = Thread.ofPlatform().name("load-test-processing").start(() -> {
+            while (System.nanoTime() < deadline) {
+                measure(PROCESS_USER_DATA, report, recordStart, deadline, () -> {
+                    userProcessingService.processUserData();
+                    return true;
+                });
+            }
+        });
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                clientExecutor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        String operation = pick(weights);
+                        measure(operation, report, recordStart, deadline, () -> execute(operation));
+                    }
+                });
+            }
+        }
+        processing.join();
+        logger.info("Run finished {} ms after the deadline while draining in-flight work",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - deadline));
+        return (deadline - recordStart) / 1e9;
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        /**
+         * @return false if the action had nothing to do and should not be counted.
+         */
+        boolean run() throws Exception;
+    }
+
+    /**
+     * Runs one action. A failure is always counted; a success is recorded only if it
+     * started after the warmup and finished by the deadline, and counted as outside otherwise.
+     */
+    private void measure(String operation, LatencyReport report, long recordStart, long deadline, Action action) {
+        long start = System.nanoTime();
+        Exception failure = null;
+        boolean performed = true;
+        try {
+            performed = action.run();
+        } catch (Exception ex) {
+            failure = ex;
+        }
+        long end = System.nanoTime();
+        if (!performed) {
+            return;
+        }
+        if (failure != null) {
+            report.error(operation);
+            if (loggedFailures.getAndIncrement() < MAX_LOGGED_FAILURES) {
+                logger.warn("{} failed: {}", operation, failure.toString());
+            }
+        } else if (start < recordStart || end > deadline) {
+            report.recordOutside(operation);
+        } else {
+            report.record(operation, end - start);
+        }
+    }
+
+    /**
+     * Sends one request for the operation.
+     *
+     * @return false if the operation was a delete with no user left to delete, so nothing was sent.
+     * @throws IllegalStateException if the response does not have the expected status.
+     */
+    private boolean execute(String operation) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long seededId = seededIds[random.nextInt(seededIds.length)];
+        switch (operation) {
+            case "get":
+                expect(send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + seededId)).GET()), 200);
+                break;
+            case "list":
+                expect(send(HttpRequest.newBuilder(URI.create(baseUrl + "?limit=" + pageSize + "&afterId=" + seededId)).GET()), 200);
+                break;
+            case "update":
+                expect(send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + seededId))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(userJson("Updated User " + seededId)))), 200);
+                break;
+            case "delete":
+                Long createdId = createdIds.poll();
+                if (createdId == null) {
+                    skippedDeletes.increment();
+                    return false;
+                }
+                expect(send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + createdId)).DELETE()), 204);
+                break;
+            case "create":
+                create();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+        return true;
+    }
+
+    private void create() throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(userJson("Load User " + System.nanoTime()))));
+        expect(response, 201);
+        createdIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+    }
+
+    private static void expect(HttpResponse<String> response, int status) {
+        if (response.statusCode() != status) {
+            throw new IllegalStateException(response.request().method() + " " + response.request().uri()
+                    + " returned " + response.statusCode() + " instead of " + status);
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String userJson(String name) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + name.toLowerCase().replace(' ', '.') + "@example.com\"}";
+    }
+
+    private static String pick(Map<String, Integer> weights) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty request mix");
+    }
+
+    /**
+     * Parses a mix such as {@code get=60,list=5}; operations with zero weight are dropped.
+     */
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2 || !OPERATIONS.contains(parts[0].trim())) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weights: " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,165 @@
+package com.user.management.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Holds back response bodies smaller than {@code server.compression.min-response-size}
+ * so they are sent with a {@code Content-Length}.
+ *
+ * Message converters stream their output without a length, and Tomcat compresses
+ * every response of unknown length regardless of the minimum size. Bodies that
+ * outgrow the threshold are streamed (and compressed) as before.
+ */
+@Component
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class ContentLengthBufferingFilter extends OncePerRequestFilter {
+
+    private final int threshold;
+
+    public ContentLengthBufferingFilter(ServerProperties serverProperties) {
+        this.threshold = (int) serverProperties.getCompression().getMinResponseSize().toBytes();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        BufferingResponseWrapper wrapper = new BufferingResponseWrapper(response, threshold);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            wrapper.finish();
+        }
+    }
+
+    private static class BufferingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final int threshold;
+        private final ByteArrayOutputStream buffer;
+        private boolean streaming;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        BufferingResponseWrapper(HttpServletResponse response, int threshold) {
+            super(response);
+            this.threshold = threshold;
+            this.buffer = new ByteArrayOutputStream(threshold);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called for this response");
+            }
+            return bufferingStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called for this response");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(bufferingStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (streaming) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            buffer.reset();
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            buffer.reset();
+        }
+
+        private ServletOutputStream bufferingStream() {
+            if (outputStream == null) {
+                outputStream = new BufferingOutputStream();
+            }
+            return outputStream;
+        }
+
+        /**
+         * Switches to streaming once the body outgrows the threshold, leaving the length unknown.
+         */
+        private void startStreaming() throws IOException {
+            streaming = true;
+            buffer.writeTo(getResponse().getOutputStream());
+            buffer.reset();
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream == null || streaming || getResponse().isCommitted()) {
+                return;
+            }
+            getResponse().setContentLength(buffer.size());
+            buffer.writeTo(getResponse().getOutputStream());
+        }
+
+        private class BufferingOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (!streaming && buffer.size() + len > threshold) {
+                    startStreaming();
+                }
+                if (streaming) {
+                    getResponse().getOutputStream().write(b, off, len);
+                } else {
+                    buffer.write(b, off, len);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (streaming) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                throw new UnsupportedOperationException("Non-blocking writes are not supported");
+            }
+        }
+    }
+}
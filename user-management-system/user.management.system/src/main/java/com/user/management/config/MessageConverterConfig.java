@@ -0,0 +1,43 @@
+package com.user.management.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Registers the binary Jackson encodings used for service-to-service traffic.
+ *
+ * Clients select the encoding with the {@code Accept} / {@code Content-Type} headers;
+ * JSON stays the default when no binary type is requested.
+ */
+@Configuration
+public class MessageConverterConfig {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * CBOR converter built from the application's Jackson settings.
+     *
+     * @param builder the Boot-configured {@link Jackson2ObjectMapperBuilder}.
+     * @return the converter for {@code application/cbor}.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile converter built from the application's Jackson settings.
+     *
+     * @param builder the Boot-configured {@link Jackson2ObjectMapperBuilder}.
+     * @return the converter for {@code application/x-jackson-smile}.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,83 @@
+package com.user.management.config;
+
+import com.user.management.sharding.ShardProperties;
+import com.user.management.sharding.ShardRouter;
+import com.user.management.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds one connection pool per shard behind a {@link ShardRoutingDataSource}.
+ *
+ * Hibernate only ever sees shard 0 at startup, so the users table is created
+ * on every shard from {@code db/users-schema.sql} instead of by {@code ddl-auto}.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardProperties.class)
+public class ShardingConfig {
+
+    /**
+     * Each shard pool takes {@code spring.datasource.hikari.*} as defaults,
+     * then {@code sharding.shards[n].hikari.*} as per-shard overrides.
+     */
+    @Bean
+    public ShardRoutingDataSource dataSource(ShardProperties shardProperties, DataSourceProperties dataSourceProperties,
+                                             Environment environment) {
+        Binder binder = Binder.get(environment);
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        List<ShardProperties.Shard> shards = shardProperties.getShards();
+        if (shards.isEmpty()) {
+            HikariDataSource shard = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(shard));
+            targetDataSources.put(0, shard);
+        } else {
+            for (int i = 0; i < shards.size(); i++) {
+                ShardProperties.Shard shard = shards.get(i);
+                HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .url(shard.getUrl())
+                        .username(shard.getUsername())
+                        .password(shard.getPassword())
+                        .build();
+                binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+                binder.bind("sharding.shards[" + i + "].hikari", Bindable.ofInstance(dataSource));
+                if (dataSource.getPoolName() == null) {
+                    dataSource.setPoolName("shard-" + i);
+                }
+                targetDataSources.put(i, dataSource);
+            }
+        }
+
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("db/users-schema.sql"));
+        targetDataSources.values().forEach(shard -> populator.execute((DataSource) shard));
+
+        ShardRoutingDataSource dataSource = new ShardRoutingDataSource();
+        dataSource.setTargetDataSources(targetDataSources);
+        dataSource.setDefaultTargetDataSource(targetDataSources.get(0));
+        return dataSource;
+    }
+
+    /**
+     * Scatter threads default to the total shard connection count, so every
+     * pooled connection can serve a concurrent fan-out.
+     */
+    @Bean
+    public ShardRouter shardRouter(ShardProperties shardProperties, ShardRoutingDataSource dataSource,
+                                   PlatformTransactionManager transactionManager) {
+        return new ShardRouter(shardProperties, dataSource.getMaximumPoolSize(), transactionManager);
+    }
+}
@@ -1,19 +1,35 @@
 package com.user.management.controller;
 
+import com.user.management.config.MessageConverterConfig;
 import com.user.management.dto.UserDTO;
 import com.user.management.service.UserService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+/**
+ * REST endpoints for users.
+ * Responses are negotiated from the {@code Accept} header: JSON by default,
+ * CBOR or Smile for compact service-to-service payloads.
+ */
 @RestController
-@RequestMapping("/api/users")
+@RequestMapping(value = "/api/users", produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        MessageConverterConfig.APPLICATION_SMILE_VALUE
+})
 public class UserController {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     UserService userService;
 
@@ -63,12 +79,21 @@ public class UserController {
     }
 
     /**
-     * Retrieves all users.
+     * Retrieves all users, or one keyset page of users when {@code afterId} or {@code limit} is given.
+     * A page without {@code limit} holds {@value #DEFAULT_PAGE_SIZE} users.
+     * @param afterId last ID of the previous page
+     * @param limit page size, from 1 to {@value #MAX_PAGE_SIZE}
      * @return
      */
     @GetMapping
-    public ResponseEntity<List<UserDTO>> getAllUser(){
-        List<UserDTO> user  = userService.getAllUser();
+    public ResponseEntity<List<UserDTO>> getAllUser(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false)
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = MAX_PAGE_SIZE, message = "Limit must be at most " + MAX_PAGE_SIZE) Integer limit){
+        List<UserDTO> user  = afterId == null && limit == null
+                ? userService.getAllUser()
+                : userService.getUsers(afterId == null ? 0L : afterId, limit == null ? DEFAULT_PAGE_SIZE : limit);
         return ResponseEntity.ok(user);
     }
 }
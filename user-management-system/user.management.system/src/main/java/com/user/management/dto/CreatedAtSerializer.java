@@ -0,0 +1,39 @@
+package com.user.management.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link UserDTO#getCreatedAt()} as a number when it holds epoch millis
+ * (digits only), and as a string otherwise, so the field keeps one name in both modes.
+ */
+public class CreatedAtSerializer extends StdSerializer<String> {
+
+    public CreatedAtSerializer() {
+        super(String.class);
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (isEpochMillis(value)) {
+            gen.writeNumber(Long.parseLong(value));
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static boolean isEpochMillis(String value) {
+        if (value.isEmpty() || value.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.user.management.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -19,5 +20,10 @@ public class UserDTO {
     @Email(message = "Invalid email format")
     private String email;
 
+    /**
+     * Formatted creation time, or epoch millis when {@code user.created-at-epoch-millis}
+     * is enabled; epoch millis are written as a number.
+     */
+    @JsonSerialize(using = CreatedAtSerializer.class)
     private String createdAt;
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
 import java.time.LocalDateTime;
 
 @Entity
@@ -14,9 +15,11 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class User {
+public class User implements Persistable<Long> {
+    /**
+     * Assigned by the service before saving, so the owning shard is known up front.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -36,4 +39,13 @@ public class User {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
     }
+
+    /**
+     * The id is assigned before persisting, so a user is new until {@link #onCreate()} has run.
+     * This keeps {@code save} on a plain insert instead of a select-then-insert merge.
+     */
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
 }
@@ -1,9 +1,23 @@
 package com.user.management.repository;
 
 import com.user.management.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface UserRepository extends JpaRepository<User,Long> {
+
+    List<User> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.lastProcessedAt = :processedAt")
+    int updateLastProcessedAt(LocalDateTime processedAt);
 }
@@ -1,13 +1,12 @@
 package com.user.management.scheduler;
 
-import com.user.management.entity.User;
 import com.user.management.repository.UserRepository;
+import com.user.management.sharding.ShardRouter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * Service for processing user data periodically.
@@ -19,19 +18,21 @@ public class UserProcessingService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ShardRouter shardRouter;
+
     /**
      * Scheduled method to process user data at a fixed interval.
-     * This method updates the `lastProcessedAt` timestamp for each user
-     * and saves the updated user entity to the repository.
+     * This method updates the `lastProcessedAt` timestamp for every user,
+     * one shard at a time, with a single update statement per shard.
+     * Rows deleted while the job runs stay deleted.
      *
      * The method is executed every 60,000 milliseconds (60 seconds).
      */
     @Scheduled(fixedRate = 60000)
     public void processUserData() {
-        List<User> users = userRepository.findAll();
-        users.forEach(user -> {
-            user.setLastProcessedAt(LocalDateTime.now());
-            userRepository.save(user);
-        });
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            shardRouter.runOnShard(shard, () -> userRepository.updateLastProcessedAt(LocalDateTime.now()));
+        }
     }
 }
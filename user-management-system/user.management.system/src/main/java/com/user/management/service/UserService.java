@@ -7,6 +7,7 @@ import java.util.List;
 public interface UserService {
 
     List<UserDTO> getAllUser();
+    List<UserDTO> getUsers(long afterId, int limit);
     UserDTO getUser(long id);
     UserDTO addUser(UserDTO user);
     UserDTO updateUser(long id, UserDTO user);
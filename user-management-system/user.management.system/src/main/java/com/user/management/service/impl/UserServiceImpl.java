@@ -5,17 +5,25 @@ import com.user.management.entity.User;
 import com.user.management.exception.UserNotFoundException;
 import com.user.management.repository.UserRepository;
 import com.user.management.service.UserService;
+import com.user.management.sharding.ShardRouter;
+import com.user.management.sharding.SnowflakeIdGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link UserService} interface, providing business logic for user management.
+ * Point operations are routed to the shard owning the user id; listings are gathered from all shards.
  */
 @Service
 public class UserServiceImpl implements UserService {
@@ -26,16 +34,50 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Value("${user.created-at-epoch-millis:false}")
+    private boolean createdAtEpochMillis;
+
     /**
-     * Retrieves all users from the repository.
+     * Retrieves all users from every shard, ordered by ID.
      *
      * @return a list of {@link UserDTO} representing all users.
      */
     @Override
     public List<UserDTO> getAllUser() {
         logger.info("Fetching all users");
-        List<User> userList = userRepository.findAll();
+        List<User> userList = shardRouter.scatter(shard -> userRepository.findAll());
         return userList.stream()
+                .sorted(Comparator.comparing(User::getId))
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves one keyset page of users, ordered by ID.
+     * Each shard returns at most {@code limit} users after {@code afterId};
+     * the merged result keeps the lowest {@code limit} IDs.
+     *
+     * @param afterId the last ID of the previous page, or 0 for the first page.
+     * @param limit the maximum number of users to return.
+     * @return a list of {@link UserDTO} with IDs greater than {@code afterId}.
+     * @throws IllegalArgumentException if {@code limit} is less than 1.
+     */
+    @Override
+    public List<UserDTO> getUsers(long afterId, int limit) {
+        logger.info("Fetching {} users after id: {}", limit, afterId);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        List<User> userList = shardRouter.scatter(shard -> userRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit)));
+        return userList.stream()
+                .sorted(Comparator.comparing(User::getId))
+                .limit(limit)
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
@@ -50,13 +92,14 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDTO getUser(long id) {
         logger.info("Fetching user with id: {}", id);
-        User user = userRepository.findById(id)
+        User user = shardRouter.onShard(shardRouter.shardFor(id), () -> userRepository.findById(id))
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
         return convertToDto(user);
     }
 
     /**
      * Adds a new user to the repository.
+     * The ID is generated here so the user can be written straight to its owning shard.
      *
      * @param userDTO the {@link UserDTO} representing the new user to add.
      * @return the {@link UserDTO} representing the added user.
@@ -65,12 +108,15 @@ public class UserServiceImpl implements UserService {
     public UserDTO addUser(UserDTO userDTO) {
         logger.info("Adding new user: {}", userDTO.getName());
         User user = convertToEntity(userDTO);
-        User savedUser = userRepository.save(user);
+        user.setId(idGenerator.nextId());
+        User savedUser = shardRouter.onShard(shardRouter.shardFor(user.getId()), () -> userRepository.save(user));
         return convertToDto(savedUser);
     }
 
     /**
      * Updates an existing user.
+     * The read and the write share one transaction, so a user deleted in between
+     * is reported as not found rather than written back.
      *
      * @param id the ID of the user to update.
      * @param userDTO the {@link UserDTO} containing updated user data.
@@ -80,13 +126,20 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDTO updateUser(long id, UserDTO userDTO) {
         logger.info("Updating user with id: {}", id);
-        User existingUser = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+        User updatedUser;
+        try {
+            updatedUser = shardRouter.onShard(shardRouter.shardFor(id), () -> {
+                User existingUser = userRepository.findById(id)
+                        .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
 
-        existingUser.setName(userDTO.getName());
-        existingUser.setEmail(userDTO.getEmail());
+                existingUser.setName(userDTO.getName());
+                existingUser.setEmail(userDTO.getEmail());
 
-        User updatedUser = userRepository.save(existingUser);
+                return userRepository.save(existingUser);
+            });
+        } catch (OptimisticLockingFailureException ex) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
         return convertToDto(updatedUser);
     }
 
@@ -99,14 +152,18 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deleteUser(long id) {
         logger.info("Deleting user with id: {}", id);
-        if (!userRepository.existsById(id)) {
-            throw new UserNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        shardRouter.runOnShard(shardRouter.shardFor(id), () -> {
+            if (!userRepository.existsById(id)) {
+                throw new UserNotFoundException("User not found with id: " + id);
+            }
+            userRepository.deleteById(id);
+        });
     }
 
     /**
      * Converts a {@link User} entity to a {@link UserDTO}.
+     * The creation time is sent either as a formatted string or, when
+     * {@code user.created-at-epoch-millis} is enabled, as epoch millis.
      *
      * @param user the {@link User} entity to convert.
      * @return the {@link UserDTO} representing the user.
@@ -114,7 +171,13 @@ public class UserServiceImpl implements UserService {
     private UserDTO convertToDto(User user) {
         UserDTO userDTO = new UserDTO();
         BeanUtils.copyProperties(user, userDTO);
-        userDTO.setCreatedAt(user.getCreatedAt() != null ? user.getCreatedAt().format(FORMATTER) : null);
+        if (user.getCreatedAt() != null) {
+            if (createdAtEpochMillis) {
+                userDTO.setCreatedAt(String.valueOf(user.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+            } else {
+                userDTO.setCreatedAt(user.getCreatedAt().format(FORMATTER));
+            }
+        }
         return userDTO;
     }
 
@@ -0,0 +1,25 @@
+package com.user.management.sharding;
+
+/**
+ * Holds the shard the current thread is working against.
+ * Read by {@link ShardRoutingDataSource} when a connection is acquired.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer getCurrentShard() {
+        return CURRENT_SHARD.get();
+    }
+
+    static void setCurrentShard(int shard) {
+        CURRENT_SHARD.set(shard);
+    }
+
+    static void clear() {
+        CURRENT_SHARD.remove();
+    }
+}
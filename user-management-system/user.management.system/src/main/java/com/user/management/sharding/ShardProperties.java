@@ -0,0 +1,66 @@
+package com.user.management.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharding settings bound from the {@code sharding} prefix.
+ * When no shards are listed, the single {@code spring.datasource} acts as shard 0.
+ */
+@Data
+@ConfigurationProperties(prefix = "sharding")
+public class ShardProperties {
+
+    /**
+     * How user ids are mapped to shards.
+     */
+    public enum Strategy {
+        HASH,
+        RANGE
+    }
+
+    private Strategy strategy = Strategy.HASH;
+
+    /**
+     * Number of consecutive ids owned by each shard when using {@link Strategy#RANGE}.
+     * Ids past the last range stay on the last shard. Required for {@link Strategy#RANGE}.
+     *
+     * Measured in generated id units: ids grow by about 4.2M (2^22) per millisecond,
+     * so a range covers {@code rangeSize / 2^22} ms of inserts. Because ids grow with
+     * time, all new users land on the same (latest) shard under this strategy.
+     */
+    private long rangeSize = 0;
+
+    /**
+     * Threads used to fan queries out to shards. 0 means the total connection
+     * count of all shard pools.
+     */
+    private int scatterThreads = 0;
+
+    /**
+     * Shard queries that may wait for a scatter thread; when full, the calling
+     * thread runs the query itself.
+     */
+    private int scatterQueueCapacity = 1000;
+
+    /**
+     * Worker id (0-1023) embedded in generated ids; must be unique per running instance.
+     */
+    private int workerId = 0;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * One shard's connection settings. Pool settings go under {@code hikari.*}
+     * and override {@code spring.datasource.hikari.*} for this shard.
+     */
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
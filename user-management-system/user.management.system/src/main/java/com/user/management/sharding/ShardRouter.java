@@ -0,0 +1,196 @@
+package com.user.management.sharding;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Maps user ids to shards and runs repository calls against them.
+ *
+ * Point operations run on the calling thread against the owning shard;
+ * {@link #scatter(IntFunction)} fans a query out to every shard in parallel
+ * on a bounded pool shared by all requests.
+ *
+ * Given a transaction manager, each unit of work runs in one transaction that
+ * begins after the shard is selected, so its connection comes from that shard.
+ */
+public class ShardRouter {
+
+    private final ShardProperties.Strategy strategy;
+    private final long rangeSize;
+    private final int shardCount;
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    /**
+     * Creates a router that runs actions without starting transactions.
+     *
+     * @param shardProperties the sharding settings.
+     * @param connectionCount total connections across all shard pools; the scatter
+     *                        thread count when {@code sharding.scatter-threads} is not set.
+     */
+    public ShardRouter(ShardProperties shardProperties, int connectionCount) {
+        this(shardProperties, connectionCount, null);
+    }
+
+    /**
+     * @param shardProperties the sharding settings.
+     * @param connectionCount total connections across all shard pools; the scatter
+     *                        thread count when {@code sharding.scatter-threads} is not set.
+     * @param transactionManager the manager used to run each unit of work in one transaction,
+     *                           or {@code null} to run actions as they are.
+     */
+    public ShardRouter(ShardProperties shardProperties, int connectionCount, PlatformTransactionManager transactionManager) {
+        if (transactionManager != null) {
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+            this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        } else {
+            this.transactionTemplate = null;
+            this.newTransactionTemplate = null;
+        }
+        this.strategy = shardProperties.getStrategy();
+        this.rangeSize = shardProperties.getRangeSize();
+        this.shardCount = Math.max(1, shardProperties.getShards().size());
+        if (strategy == ShardProperties.Strategy.RANGE && rangeSize <= 0) {
+            throw new IllegalArgumentException("sharding.range-size must be set when sharding.strategy is range");
+        }
+        if (shardCount > 1) {
+            int threads = shardProperties.getScatterThreads() > 0
+                    ? shardProperties.getScatterThreads()
+                    : Math.max(shardCount, connectionCount);
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(shardProperties.getScatterQueueCapacity()),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "shard-scatter-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            this.executor.allowCoreThreadTimeOut(true);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Returns the shard that owns the given user id.
+     *
+     * @param id the user id.
+     * @return the shard index, from 0 to {@code shardCount - 1}.
+     */
+    public int shardFor(long id) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        if (strategy == ShardProperties.Strategy.RANGE) {
+            return (int) Math.min(Math.max(id, 0) / rangeSize, shardCount - 1);
+        }
+        return Math.floorMod(mix(id), shardCount);
+    }
+
+    /**
+     * Runs an action in one transaction with connections routed to the given shard.
+     * A call nested inside work on the same shard joins its transaction; a call
+     * nested inside work on another shard suspends it and starts its own.
+     *
+     * @param shard the shard index.
+     * @param action the action to run.
+     * @return the action's result.
+     */
+    public <T> T onShard(int shard, Supplier<T> action) {
+        Integer previous = ShardContext.getCurrentShard();
+        ShardContext.setCurrentShard(shard);
+        try {
+            if (transactionTemplate == null) {
+                return action.get();
+            }
+            TransactionTemplate template = previous != null && previous != shard ? newTransactionTemplate : transactionTemplate;
+            return template.execute(status -> action.get());
+        } finally {
+            if (previous != null) {
+                ShardContext.setCurrentShard(previous);
+            } else {
+                ShardContext.clear();
+            }
+        }
+    }
+
+    /**
+     * Runs an action in one transaction with connections routed to the given shard.
+     *
+     * @param shard the shard index.
+     * @param action the action to run.
+     */
+    public void runOnShard(int shard, Runnable action) {
+        onShard(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a query on every shard in parallel and concatenates the results in shard order.
+     *
+     * @param query the query, given the shard index.
+     * @return the results from all shards.
+     */
+    public <T> List<T> scatter(IntFunction<List<T>> query) {
+        if (shardCount == 1) {
+            return onShard(0, () -> query.apply(0));
+        }
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> onShard(target, () -> query.apply(target)), executor));
+        }
+        List<T> results = new ArrayList<>();
+        try {
+            futures.forEach(future -> results.addAll(future.join()));
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Spreads sequential ids evenly across shards (MurmurHash3 finalizer).
+     */
+    private static long mix(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,46 @@
+package com.user.management.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link javax.sql.DataSource} that hands out connections from the shard set in {@link ShardContext}.
+ * Falls back to shard 0 when no shard is selected, e.g. for schema management at startup.
+ *
+ * The shard pools are not beans of their own, so they are closed here on shutdown.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    /** HikariCP's pool size when {@code maximum-pool-size} is not set. */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.getCurrentShard();
+    }
+
+    /**
+     * Returns the total number of connections across all shard pools.
+     *
+     * @return the sum of each shard pool's maximum size.
+     */
+    public int getMaximumPoolSize() {
+        return getResolvedDataSources().values().stream()
+                .mapToInt(shard -> shard instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() > 0
+                        ? hikari.getMaximumPoolSize()
+                        : DEFAULT_POOL_SIZE)
+                .sum();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource shard : getResolvedDataSources().values()) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.user.management.sharding;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates globally unique, roughly time-ordered user ids without a database round trip.
+ *
+ * Layout: 41 bits of milliseconds since {@link #EPOCH}, 10 bits of worker id
+ * and 12 bits of per-millisecond sequence.
+ */
+@Component
+public class SnowflakeIdGenerator {
+
+    /** 2024-01-01T00:00:00Z */
+    static final long EPOCH = 1704067200000L;
+
+    private static final int WORKER_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(ShardProperties shardProperties) {
+        long workerId = shardProperties.getWorkerId();
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("sharding.worker-id must be between 0 and " + MAX_WORKER_ID);
+        }
+        this.workerId = workerId;
+    }
+
+    /**
+     * Returns the next id for this worker.
+     * If the clock moves backwards, waits until it passes the last issued timestamp.
+     *
+     * @return a positive, unique id.
+     */
+    public synchronized long nextId() {
+        long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = waitForNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (WORKER_ID_BITS + SEQUENCE_BITS))
+                | (workerId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long waitForNextMillis(long lastTimestamp) {
+        long timestamp = System.currentTimeMillis();
+        while (timestamp <= lastTimestamp) {
+            Thread.onSpinWait();
+            timestamp = System.currentTimeMillis();
+        }
+        return timestamp;
+    }
+}
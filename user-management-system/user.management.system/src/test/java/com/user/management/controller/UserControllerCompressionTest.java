@@ -0,0 +1,98 @@
+package com.user.management.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.user.management.dto.UserDTO;
+import com.user.management.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Response compression is applied by the embedded Tomcat connector, so it is
+ * tested over real HTTP rather than through MockMvc.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class UserControllerCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private UserService userService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private static List<UserDTO> users(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new UserDTO(id, "User " + id, "user." + id + "@example.com", "2024-08-09 12:00:00"))
+                .collect(Collectors.toList());
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", accept)
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] content) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    public void testLargeJsonResponseIsGzipped() throws Exception {
+        List<UserDTO> users = users(500);
+        when(userService.getAllUser()).thenReturn(users);
+
+        HttpResponse<byte[]> response = get("/api/users", MediaType.APPLICATION_JSON_VALUE);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        assertEquals(users, new ObjectMapper().readValue(gunzip(response.body()), new TypeReference<List<UserDTO>>() {}));
+    }
+
+    @Test
+    public void testLargeCborResponseIsGzipped() throws Exception {
+        List<UserDTO> users = users(500);
+        when(userService.getAllUser()).thenReturn(users);
+
+        HttpResponse<byte[]> response = get("/api/users", MediaType.APPLICATION_CBOR_VALUE);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        assertEquals(users, new CBORMapper().readValue(gunzip(response.body()), new TypeReference<List<UserDTO>>() {}));
+    }
+
+    @Test
+    public void testSmallResponseIsNotCompressed() throws Exception {
+        when(userService.getUser(1L)).thenReturn(users(1).get(0));
+
+        HttpResponse<byte[]> response = get("/api/users/1", MediaType.APPLICATION_JSON_VALUE);
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+        assertEquals(response.body().length, response.headers().firstValueAsLong("Content-Length").orElse(-1));
+    }
+}
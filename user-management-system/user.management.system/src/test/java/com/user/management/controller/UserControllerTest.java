@@ -1,6 +1,9 @@
 package com.user.management.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.user.management.config.MessageConverterConfig;
 import com.user.management.dto.UserDTO;
 import com.user.management.exception.UserNotFoundException;
 import com.user.management.service.UserService;
@@ -22,6 +25,8 @@ import java.util.Collections;
 
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -86,6 +91,30 @@ public class UserControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.email").value("john@example.com"));
     }
 
+    @Test
+    public void testGetUserWithEpochMillisCreatedAt() throws Exception {
+        UserDTO userDTO = new UserDTO(1L, "John Doe", "john@example.com", "1723249545000");
+        when(userService.getUser(1L)).thenReturn(userDTO);
+
+        String content = mockMvc.perform(MockMvcRequestBuilders.get("/api/users/1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(content.contains("\"createdAt\":1723249545000"), content);
+    }
+
+    @Test
+    public void testGetUserWithoutCreatedAt() throws Exception {
+        UserDTO userDTO = new UserDTO(1L, "John Doe", "john@example.com", null);
+        when(userService.getUser(1L)).thenReturn(userDTO);
+
+        String content = mockMvc.perform(MockMvcRequestBuilders.get("/api/users/1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(content.contains("\"createdAt\":null"), content);
+    }
+
     @Test
     public void testUpdateUser() throws Exception {
         UserDTO userDTO = new UserDTO(1L, "Jane Doe", "jane@example.com", "2024-08-09T12:00:00");
@@ -121,6 +150,75 @@ public class UserControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].email").value("john@example.com"));
     }
 
+    @Test
+    public void testGetUsersPage() throws Exception {
+        UserDTO userDTO = new UserDTO(2L, "John Doe", "john@example.com", "2024-08-09T12:00:00");
+        when(userService.getUsers(1L, 10)).thenReturn(Collections.singletonList(userDTO));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/users")
+                        .param("afterId", "1")
+                        .param("limit", "10"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(2));
+    }
+
+    @Test
+    public void testGetUsersPageWithoutLimitUsesDefaultPageSize() throws Exception {
+        UserDTO userDTO = new UserDTO(6L, "John Doe", "john@example.com", "2024-08-09T12:00:00");
+        when(userService.getUsers(5L, UserController.DEFAULT_PAGE_SIZE)).thenReturn(Collections.singletonList(userDTO));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/users")
+                        .param("afterId", "5"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(6));
+    }
+
+    @Test
+    public void testGetUsersPageLimitTooSmall() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/users")
+                        .param("limit", "0"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error").value("Validation Error"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.details", hasItems("limit: Limit must be at least 1")));
+    }
+
+    @Test
+    public void testGetUsersPageLimitTooLarge() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/users")
+                        .param("limit", "100000000"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.details", hasItems("limit: Limit must be at most 1000")));
+    }
+
+    @Test
+    public void testGetUserAsCbor() throws Exception {
+        UserDTO userDTO = new UserDTO(1L, "John Doe", "john@example.com", "2024-08-09T12:00:00");
+        when(userService.getUser(1L)).thenReturn(userDTO);
+
+        byte[] content = mockMvc.perform(MockMvcRequestBuilders.get("/api/users/1")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(userDTO, new CBORMapper().readValue(content, UserDTO.class));
+    }
+
+    @Test
+    public void testGetUserAsSmile() throws Exception {
+        UserDTO userDTO = new UserDTO(1L, "John Doe", "john@example.com", "2024-08-09T12:00:00");
+        when(userService.getUser(1L)).thenReturn(userDTO);
+
+        byte[] content = mockMvc.perform(MockMvcRequestBuilders.get("/api/users/1")
+                        .accept(MessageConverterConfig.APPLICATION_SMILE_VALUE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MessageConverterConfig.APPLICATION_SMILE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(userDTO, new SmileMapper().readValue(content, UserDTO.class));
+    }
+
     @Test
     public void testGetUserNotFoundException() throws Exception {
         when(userService.getUser(1L)).thenThrow(new UserNotFoundException("User not found with id: 1"));
@@ -4,14 +4,21 @@ import com.user.management.dto.UserDTO;
 import com.user.management.entity.User;
 import com.user.management.exception.UserNotFoundException;
 import com.user.management.repository.UserRepository;
+import com.user.management.sharding.ShardProperties;
+import com.user.management.sharding.ShardRouter;
+import com.user.management.sharding.SnowflakeIdGenerator;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +36,12 @@ public class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(new ShardProperties(), 1);
+
+    @Spy
+    private SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(new ShardProperties());
+
     @Autowired
     public UserServiceImplTest() {
         MockitoAnnotations.openMocks(this);
@@ -44,6 +57,7 @@ public class UserServiceImplTest {
 
         assertNotNull(createdUser);
         assertEquals("John Doe", createdUser.getName());
+        verify(idGenerator, times(1)).nextId();
         verify(userRepository, times(1)).save(any(User.class));
     }
 
@@ -59,6 +73,18 @@ public class UserServiceImplTest {
         verify(userRepository, times(1)).findById(1L);
     }
 
+    @Test
+    public void testGetUserWithEpochMillis() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 10, 0, 25, 45);
+        User user = new User(1L, "John Doe", "john.doe@example.com", createdAt, null);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        ReflectionTestUtils.setField(userService, "createdAtEpochMillis", true);
+
+        UserDTO userDTO = userService.getUser(1L);
+
+        assertEquals(String.valueOf(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()), userDTO.getCreatedAt());
+    }
+
     @Test
     public void testGetUserNotFound() {
         when(userRepository.findById(1L)).thenReturn(Optional.empty());
@@ -90,6 +116,21 @@ public class UserServiceImplTest {
         verify(userRepository, times(1)).findAll();
     }
 
+    @Test
+    public void testGetUsersPage() {
+        List<User> mockUserList = Arrays.asList(
+                new User(3L, "John Doe", "john@example.com", LocalDateTime.now(), null),
+                new User(2L, "Jane Smith", "jane@example.com", LocalDateTime.now(), null)
+        );
+
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any(Limit.class))).thenReturn(mockUserList);
+        List<UserDTO> result = userService.getUsers(1L, 2);
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getId());
+        assertEquals(3L, result.get(1).getId());
+        verify(userRepository, times(1)).findByIdGreaterThanOrderByIdAsc(eq(1L), any(Limit.class));
+    }
+
     @Test
     public void testUpdateUser() {
         UserDTO userDTO = new UserDTO(1L, "John Doe", "john.doe@example.com", "2024-08-10T00:25:45.238");
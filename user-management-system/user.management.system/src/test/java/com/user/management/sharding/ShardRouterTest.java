@@ -0,0 +1,135 @@
+package com.user.management.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardRouterTest {
+
+    private ShardRouter shardRouter;
+
+    @AfterEach
+    public void tearDown() {
+        if (shardRouter != null) {
+            shardRouter.shutdown();
+        }
+    }
+
+    private static ShardProperties properties(int shardCount, ShardProperties.Strategy strategy) {
+        ShardProperties properties = new ShardProperties();
+        properties.setStrategy(strategy);
+        for (int i = 0; i < shardCount; i++) {
+            properties.getShards().add(new ShardProperties.Shard());
+        }
+        return properties;
+    }
+
+    @Test
+    public void testHashRoutingUsesEveryShard() {
+        shardRouter = new ShardRouter(properties(4, ShardProperties.Strategy.HASH), 10);
+        SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(new ShardProperties());
+
+        Set<Integer> shards = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            long id = idGenerator.nextId();
+            int shard = shardRouter.shardFor(id);
+            assertEquals(shard, shardRouter.shardFor(id));
+            shards.add(shard);
+        }
+
+        assertEquals(Set.of(0, 1, 2, 3), shards);
+    }
+
+    @Test
+    public void testRangeRouting() {
+        ShardProperties properties = properties(3, ShardProperties.Strategy.RANGE);
+        properties.setRangeSize(100);
+        shardRouter = new ShardRouter(properties, 10);
+
+        assertEquals(0, shardRouter.shardFor(99));
+        assertEquals(1, shardRouter.shardFor(100));
+        assertEquals(2, shardRouter.shardFor(250));
+        assertEquals(2, shardRouter.shardFor(10_000));
+    }
+
+    @Test
+    public void testRangeWithoutRangeSizeFails() {
+        ShardProperties properties = properties(2, ShardProperties.Strategy.RANGE);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new ShardRouter(properties, 10));
+
+        assertEquals("sharding.range-size must be set when sharding.strategy is range", exception.getMessage());
+    }
+
+    @Test
+    public void testConcurrentScattersRunInParallel() throws Exception {
+        int shardCount = 4;
+        int concurrentScatters = 5;
+        shardRouter = new ShardRouter(properties(shardCount, ShardProperties.Strategy.HASH), shardCount * concurrentScatters);
+        // Every shard query of every scatter must be running at once to pass the barrier.
+        CyclicBarrier barrier = new CyclicBarrier(shardCount * concurrentScatters);
+
+        ExecutorService callers = Executors.newFixedThreadPool(concurrentScatters);
+        try {
+            List<Future<List<Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < concurrentScatters; i++) {
+                results.add(callers.submit(() -> shardRouter.scatter(shard -> {
+                    try {
+                        barrier.await(10, TimeUnit.SECONDS);
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                    return List.of(shard);
+                })));
+            }
+            for (Future<List<Integer>> result : results) {
+                assertEquals(List.of(0, 1, 2, 3), result.get(20, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testScatterRunsOnEveryShard() {
+        shardRouter = new ShardRouter(properties(3, ShardProperties.Strategy.HASH), 10);
+
+        List<Integer> results = shardRouter.scatter(shard -> List.of(ShardContext.getCurrentShard()));
+
+        assertEquals(List.of(0, 1, 2), results);
+        assertNull(ShardContext.getCurrentShard());
+    }
+
+    @Test
+    public void testOnShardRestoresContext() {
+        shardRouter = new ShardRouter(properties(2, ShardProperties.Strategy.HASH), 10);
+
+        Integer shard = shardRouter.onShard(1, ShardContext::getCurrentShard);
+
+        assertEquals(1, shard);
+        assertNull(ShardContext.getCurrentShard());
+    }
+
+    @Test
+    public void testGeneratedIdsAreUniqueAndIncreasing() {
+        SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(new ShardProperties());
+
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = idGenerator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.user.management.sharding;
+
+import com.user.management.dto.UserDTO;
+import com.user.management.entity.User;
+import com.user.management.exception.UserNotFoundException;
+import com.user.management.repository.UserRepository;
+import com.user.management.scheduler.UserProcessingService;
+import com.user.management.service.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the service against three in-memory H2 shards through
+ * {@link ShardRoutingDataSource} and real JPA transactions.
+ */
+@SpringBootTest(properties = {
+        "sharding.shards[0].url=jdbc:h2:mem:shard_test_0;DB_CLOSE_DELAY=-1",
+        "sharding.shards[0].username=root",
+        "sharding.shards[0].password=root",
+        "sharding.shards[1].url=jdbc:h2:mem:shard_test_1;DB_CLOSE_DELAY=-1",
+        "sharding.shards[1].username=root",
+        "sharding.shards[1].password=root",
+        "sharding.shards[1].hikari.maximum-pool-size=3",
+        "sharding.shards[2].url=jdbc:h2:mem:shard_test_2;DB_CLOSE_DELAY=-1",
+        "sharding.shards[2].username=root",
+        "sharding.shards[2].password=root",
+        "spring.datasource.hikari.maximum-pool-size=4"
+})
+public class ShardingIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardRoutingDataSource dataSource;
+
+    @Autowired
+    private UserProcessingService userProcessingService;
+
+    private List<Long> createUsers(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(userService.addUser(new UserDTO(null, "User " + i, "user." + i + "@example.com", null)).getId());
+        }
+        return ids;
+    }
+
+    private Set<Integer> shardsHolding(long id) {
+        Set<Integer> shards = new HashSet<>();
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            if (shardRouter.onShard(shard, () -> userRepository.existsById(id))) {
+                shards.add(shard);
+            }
+        }
+        return shards;
+    }
+
+    @Test
+    public void testUsersAreStoredOnlyOnTheirShard() {
+        List<Long> ids = createUsers(30);
+
+        Set<Integer> usedShards = new HashSet<>();
+        for (long id : ids) {
+            assertEquals(Set.of(shardRouter.shardFor(id)), shardsHolding(id));
+            usedShards.add(shardRouter.shardFor(id));
+        }
+        assertTrue(usedShards.size() > 1, "users should spread over more than one shard");
+    }
+
+    @Test
+    public void testPointOperationsReachTheOwningShard() {
+        long id = createUsers(1).get(0);
+
+        UserDTO updated = userService.updateUser(id, new UserDTO(id, "Renamed", "renamed@example.com", null));
+        assertEquals("Renamed", updated.getName());
+        assertEquals("Renamed", userService.getUser(id).getName());
+        assertEquals(Set.of(shardRouter.shardFor(id)), shardsHolding(id));
+
+        userService.deleteUser(id);
+        assertTrue(shardsHolding(id).isEmpty());
+        assertThrows(UserNotFoundException.class, () -> userService.getUser(id));
+    }
+
+    @Test
+    public void testDeleteBetweenReadAndSaveIsNotUndone() throws Exception {
+        long id = createUsers(1).get(0);
+        int shard = shardRouter.shardFor(id);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> shardRouter.runOnShard(shard, () -> {
+            User user = userRepository.findById(id).orElseThrow();
+            // Another request deletes the user on its own thread and connection.
+            CompletableFuture.runAsync(() -> userService.deleteUser(id)).orTimeout(10, TimeUnit.SECONDS).join();
+            user.setName("Renamed");
+            userRepository.save(user);
+        }));
+
+        assertTrue(shardsHolding(id).isEmpty());
+    }
+
+    @Test
+    public void testProcessUserDataUpdatesEveryShard() {
+        List<Long> ids = createUsers(20);
+
+        userProcessingService.processUserData();
+
+        for (long id : ids) {
+            User user = shardRouter.onShard(shardRouter.shardFor(id), () -> userRepository.findById(id)).orElseThrow();
+            assertNotNull(user.getLastProcessedAt());
+        }
+    }
+
+    @Test
+    public void testKeysetPagesAcrossShardsAreCompleteAndDisjoint() {
+        createUsers(25);
+        List<Long> expected = userService.getAllUser().stream().map(UserDTO::getId).toList();
+
+        List<Long> paged = new ArrayList<>();
+        long afterId = 0;
+        while (true) {
+            List<UserDTO> page = userService.getUsers(afterId, 7);
+            if (page.isEmpty()) {
+                break;
+            }
+            assertTrue(page.size() <= 7);
+            for (UserDTO user : page) {
+                assertTrue(user.getId() > afterId, "pages must not overlap");
+                paged.add(user.getId());
+                afterId = user.getId();
+            }
+        }
+
+        assertEquals(expected, paged);
+        assertEquals(expected.size(), new HashSet<>(paged).size());
+    }
+
+    @Test
+    public void testShardPoolsUseSharedAndPerShardHikariSettings() {
+        Map<Object, DataSource> shards = dataSource.getResolvedDataSources();
+
+        assertEquals(4, ((HikariDataSource) shards.get(0)).getMaximumPoolSize());
+        assertEquals(3, ((HikariDataSource) shards.get(1)).getMaximumPoolSize());
+        assertEquals(4, ((HikariDataSource) shards.get(2)).getMaximumPoolSize());
+        assertEquals(11, dataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    public void testDestroyClosesShardPools() throws Exception {
+        HikariDataSource first = new HikariDataSource();
+        first.setJdbcUrl("jdbc:h2:mem:shard_close_0");
+        HikariDataSource second = new HikariDataSource();
+        second.setJdbcUrl("jdbc:h2:mem:shard_close_1");
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(0, first, 1, second));
+        routingDataSource.setDefaultTargetDataSource(first);
+        routingDataSource.afterPropertiesSet();
+        try (Connection connection = routingDataSource.getConnection()) {
+            assertTrue(connection.isValid(1));
+        }
+
+        routingDataSource.destroy();
+
+        assertTrue(first.isClosed());
+        assertTrue(second.isClosed());
+    }
+}